@@ -99,9 +99,11 @@ public class RawDataAccess
             int sizeT = pixels.getSizeT();
             int sizeC = pixels.getSizeC();
             Plane2D p;
-            for (int z = 0; z < sizeZ; z++)
-                for (int t = 0; t < sizeT; t++)
-                    for (int c = 0; c < sizeC; c++)
+            // Iterate Z fastest to match OMERO's XYZCT plane order;
+            // use getStack for one round-trip per stack.
+            for (int t = 0; t < sizeT; t++)
+                for (int c = 0; c < sizeC; c++)
+                    for (int z = 0; z < sizeZ; z++)
                         p = rdf.getPlane(ctx, pixels, z, t, c);
         }
     }
@@ -128,9 +130,10 @@ public class RawDataAccess
             int width = pixels.getSizeX()/2;
             int height = pixels.getSizeY()/2;
             Plane2D p;
-            for (int z = 0; z < sizeZ; z++) {
-                for (int t = 0; t < sizeT; t++) {
-                    for (int c = 0; c < sizeC; c++) {
+            // Iterate Z fastest to match OMERO's XYZCT plane order.
+            for (int t = 0; t < sizeT; t++) {
+                for (int c = 0; c < sizeC; c++) {
+                    for (int z = 0; z < sizeZ; z++) {
                         p = rdf.getTile(ctx, pixels, z, t, c, x, y, width,
                                 height);
                     }